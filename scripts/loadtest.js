@@ -0,0 +1,226 @@
+#!/usr/bin/env node
+// Load generator that replays the loan application wizard against a running backend.
+//
+// Each virtual applicant runs the same calls as LoanApplcationForm / UserApplyFinalSubmit:
+// create, the six section POSTs and the multipart document upload ("wizard" flow), or
+// the single-request /submit endpoint plus the upload ("submit" flow).
+//
+// Start the backend locally against an embedded database first, e.g.
+//   java -jar loan-origination.jar --spring.datasource.url=jdbc:h2:mem:load \
+//     --spring.jpa.hibernate.ddl-auto=create-drop
+// then run
+//   npm run loadtest -- --concurrency=50 --duration=60
+//
+// Options (all optional):
+//   --base=http://localhost:8080/api/applications
+//   --concurrency=20     concurrent applicants
+//   --duration=30        seconds to run (ignored when --applications is set)
+//   --applications=N     stop after N completed applications
+//   --doc-size=204800    bytes per uploaded document
+//   --flow=wizard|submit
+//   --run-id=0..999      distinguishes runs against the same database (random by default)
+//
+// PAN, phone numbers, current address and reference contact number are derived from the
+// run id and the applicant index, so no two applicants of a run, or of runs with
+// different ids, share any of them and trip the duplicate applicant checks. A run issues at most 1,000,000 applicants.
+
+const options = Object.fromEntries(
+  process.argv.slice(2).map((arg) => {
+    const [key, value] = arg.replace(/^--/, "").split("=");
+    return [key, value === undefined ? "true" : value];
+  })
+);
+
+const BASE = options.base || "http://localhost:8080/api/applications";
+const CONCURRENCY = parseInt(options.concurrency || "20", 10);
+const DURATION_MS = parseInt(options.duration || "30", 10) * 1000;
+const MAX_APPLICATIONS = options.applications ? parseInt(options.applications, 10) : Infinity;
+const DOC_SIZE = parseInt(options["doc-size"] || "204800", 10);
+const FLOW = options.flow || "wizard";
+const RUN_ID = options["run-id"] !== undefined
+  ? parseInt(options["run-id"], 10) % 1000
+  : Math.floor(Math.random() * 1000);
+const APPLICANTS_PER_RUN = 1000000;
+
+// Unique per (run, applicant) below 10^9: fits the nine free digits of a phone number
+const applicantNumber = (n) => RUN_ID * APPLICANTS_PER_RUN + n;
+
+const LETTERS = "ABCDEFGHIJKLMNOPQRSTUVWXYZ";
+// AAAAA0000A-style PAN: four digits from the low part of u, the six letters from the rest
+const panNumber = (u) => {
+  let rest = Math.floor(u / 10000);
+  const letters = [];
+  for (let i = 0; i < 6; i++) {
+    letters.push(LETTERS[rest % 26]);
+    rest = Math.floor(rest / 26);
+  }
+  return `${letters.slice(0, 5).join("")}${String(u % 10000).padStart(4, "0")}${letters[5]}`;
+};
+
+const personalDetails = (n) => ({
+  fullName: `Load Applicant ${n}`,
+  phoneNumber: String(9000000000 + applicantNumber(n)),
+  maritalStatus: "Single",
+  panNumber: panNumber(applicantNumber(n)),
+  passportNumber: `M${String(n % 10000000).padStart(7, "0")}`,
+  gender: "Female",
+  currentAddress: `Flat ${applicantNumber(n)}, Sunrise Apartments, Sector 21, Gurugram, Haryana 122016`,
+  permanentAddress: "House 17, Model Town, Ludhiana, Punjab 141002",
+  dateOfBirth: "1994-08-21",
+});
+
+const employmentDetails = {
+  employmentType: "Salaried",
+  employerName: "Standard Chartered GBS",
+  jobTitle: "Not specified",
+  monthlyIncome: 125000,
+  unemploymentIncome: 0,
+  yearsOfExperience: 6.5,
+  officeAddress: "DLF Cyber City, Tower B, Gurugram, Haryana 122002",
+};
+
+const loanDetails = {
+  loanType: "Home Loan",
+  loanAmount: 4500000,
+  loanTenure: 240,
+  loanPurpose: "Purchase of a 2BHK apartment",
+};
+
+const documentDetails = {
+  panCardPath: null,
+  aadhaarCardPath: null,
+  salarySlipPaths: [],
+  bankStatementPaths: [],
+  photoPath: null,
+};
+
+const existingLoanDetails = {
+  fullName: "Load Applicant",
+  loanType: "Car Loan",
+  contactNumber: "9876543210",
+  lender: "HDFC Bank",
+  email: "applicant@example.com",
+  outstandingAmount: 320000,
+  address: "HDFC Bank, Sector 14, Gurugram",
+  emiTenure: 36,
+};
+
+const referenceDetails = (n) => ({
+  fullName: "Nishank Arora",
+  relationshipWithApplicant: "Colleague",
+  contactNumber: String(8000000000 + applicantNumber(n)),
+  address: "B-12, Greater Kailash II, New Delhi 110048",
+});
+
+const documentBytes = new Uint8Array(DOC_SIZE).map((_, i) => (i * 31) & 0xff);
+
+// ---------------- METRICS ----------------
+const samples = { total: [] };
+let completed = 0;
+let failed = 0;
+
+const record = (name, ms) => {
+  (samples[name] = samples[name] || []).push(ms);
+};
+
+const timed = async (name, request) => {
+  const start = performance.now();
+  const response = await request();
+  record(name, performance.now() - start);
+  if (!response.ok) throw new Error(`${name} failed with HTTP ${response.status}`);
+  return response.json();
+};
+
+const percentile = (sorted, q) =>
+  sorted.length ? sorted[Math.min(sorted.length - 1, Math.ceil(q * sorted.length) - 1)] : 0;
+
+// ---------------- FLOWS ----------------
+const postJson = (name, url, body) =>
+  timed(name, () =>
+    fetch(url, {
+      method: "POST",
+      headers: { "Content-Type": "application/json" },
+      body: body === undefined ? undefined : JSON.stringify(body),
+    })
+  );
+
+const uploadDocuments = (id) => {
+  const form = new FormData();
+  ["panCard", "aadharCard", "salarySlips", "bankStatements"].forEach((key) =>
+    form.append(key, new Blob([documentBytes], { type: "application/pdf" }), `${key}.pdf`)
+  );
+  return timed("documents", () =>
+    fetch(`${BASE}/${id}/document-details/upload`, { method: "POST", body: form })
+  );
+};
+
+const wizardFlow = async (n) => {
+  const app = await postJson("create", `${BASE}/create`);
+  await postJson("personal", `${BASE}/${app.id}/personal-details`, personalDetails(n));
+  await postJson("employment", `${BASE}/${app.id}/employment-details`, employmentDetails);
+  await postJson("loan", `${BASE}/${app.id}/loan-details`, loanDetails);
+  await postJson("documentDetails", `${BASE}/${app.id}/document-details`, documentDetails);
+  await postJson("existing", `${BASE}/${app.id}/existing-loan-details`, existingLoanDetails);
+  await postJson("references", `${BASE}/${app.id}/reference-details`, referenceDetails(n));
+  await uploadDocuments(app.id);
+};
+
+const submitFlow = async (n) => {
+  const app = await postJson("submit", `${BASE}/submit`, {
+    personalDetails: personalDetails(n),
+    employmentDetails,
+    loanDetails,
+    documentDetails,
+    existingLoanDetails,
+    referenceDetails: referenceDetails(n),
+  });
+  await uploadDocuments(app.id);
+};
+
+// ---------------- DRIVER ----------------
+let issued = 0;
+const deadline = Date.now() + DURATION_MS;
+const keepGoing = () =>
+  issued < APPLICANTS_PER_RUN &&
+  (Number.isFinite(MAX_APPLICATIONS) ? issued < MAX_APPLICATIONS : Date.now() < deadline);
+
+const applicant = async () => {
+  const flow = FLOW === "submit" ? submitFlow : wizardFlow;
+  while (keepGoing()) {
+    const n = issued++;
+    const start = performance.now();
+    try {
+      await flow(n);
+      record("total", performance.now() - start);
+      completed++;
+    } catch (err) {
+      failed++;
+      if (failed <= 5) console.error(err.message);
+    }
+  }
+};
+
+const main = async () => {
+  console.log(
+    `Flow=${FLOW} runId=${RUN_ID} concurrency=${CONCURRENCY} docSize=${DOC_SIZE}B ` +
+      (Number.isFinite(MAX_APPLICATIONS) ? `applications=${MAX_APPLICATIONS}` : `duration=${DURATION_MS / 1000}s`)
+  );
+  const start = performance.now();
+  await Promise.all(Array.from({ length: CONCURRENCY }, applicant));
+  const elapsedSeconds = (performance.now() - start) / 1000;
+
+  console.log(`\nCompleted ${completed} applications, ${failed} failed, in ${elapsedSeconds.toFixed(1)}s`);
+  console.log(`Throughput: ${(completed / elapsedSeconds).toFixed(2)} applications/s\n`);
+  console.log("step".padEnd(16) + "count".padStart(8) + "p50 ms".padStart(10) + "p95 ms".padStart(10) + "p99 ms".padStart(10) + "max ms".padStart(10));
+  Object.entries(samples).forEach(([name, values]) => {
+    const sorted = [...values].sort((a, b) => a - b);
+    console.log(
+      name.padEnd(16) +
+        String(sorted.length).padStart(8) +
+        [0.5, 0.95, 0.99, 1].map((q) => percentile(sorted, q).toFixed(1).padStart(10)).join("")
+    );
+  });
+  process.exitCode = failed > 0 ? 1 : 0;
+};
+
+main();
@@ -0,0 +1,33 @@
+-- Columns and indexes behind GET /api/applications/search (ApplicationSearchService).
+-- Table and column names follow the default Hibernate naming for LoanApplication and
+-- LoanDetails; adjust if the mappings override them. Written for MySQL 8.
+
+-- Search columns on the application row, so every filter can use an index on
+-- loan_application alone. created_at is filled by the database on insert; rows that exist when
+-- it is added get the time of the migration. The loan columns are kept by
+-- ApplicationSearchService.syncLoanColumns whenever loan details are saved.
+ALTER TABLE loan_application
+    ADD COLUMN created_at TIMESTAMP(3) NOT NULL DEFAULT CURRENT_TIMESTAMP(3),
+    ADD COLUMN search_loan_type VARCHAR(255),
+    ADD COLUMN search_loan_amount DOUBLE;
+
+UPDATE loan_application a
+    JOIN loan_details l ON l.id = a.loan_details_id
+SET a.search_loan_type = l.loan_type,
+    a.search_loan_amount = l.loan_amount;
+
+-- status queues, newest first: seek on (status, id) without a sort
+CREATE INDEX idx_loan_application_status_id ON loan_application (status, id DESC);
+
+-- loan type queues, newest first, with the amount range checked in the index
+CREATE INDEX idx_loan_application_type_id ON loan_application (search_loan_type, id DESC, search_loan_amount);
+
+-- date ranges. A range on created_at cannot hand rows back in id order, so each page
+-- sorts the range's rows below the cursor: cost grows with the range, not the page depth.
+CREATE INDEX idx_loan_application_created_id ON loan_application (created_at, id DESC);
+
+-- amount ranges without a loan type; sorted per page like the date ranges
+CREATE INDEX idx_loan_application_amount ON loan_application (search_loan_amount, id);
+
+-- join from the application to the applicant name shown on each row
+CREATE INDEX idx_loan_application_personal_details ON loan_application (personal_details_id);